@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.service;
+
+import com.jpmchase.bank.entity.FeeRule;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures fee evaluation against schedules of increasing size. Each call takes the next
+ * corridor and amount from a precomputed, randomly filled array, so the benchmark covers
+ * exact matches, amounts below the lowest tier, corridors with no rules of their own and
+ * the default fee, not a single well-predicted path. The cost should grow only with the
+ * binary search depth as {@code ruleCount} grows, never linearly with the rule count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class FeeScheduleBenchmark {
+    private static final String[] CURRENCIES = {"USD", "AUD", "EUR", "GBP", "JPN", "CNY", "CAD", "CHF"};
+    // Only the first six currencies get corridor rules; CAD and CHF resolve via the wildcard.
+    private static final int RULED_CURRENCIES = 6;
+    private static final int QUERIES = 1024;
+    private static final int QUERY_MASK = QUERIES - 1;
+
+    @Param({"10", "1000", "10000"})
+    private int ruleCount;
+
+    private FeeSchedule schedule;
+    private final String[] fromCurrencies = new String[QUERIES];
+    private final String[] toCurrencies = new String[QUERIES];
+    private final BigDecimal[] amounts = new BigDecimal[QUERIES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        int corridors = RULED_CURRENCIES * RULED_CURRENCIES;
+        int tiersPerCorridor = Math.max(1, (ruleCount - 1) / corridors);
+        List<FeeRule> rules = new ArrayList<>(ruleCount);
+        // Catch-all tier from 50, so smaller amounts fall through to the default fee.
+        rules.add(FeeRule.builder()
+                .tierFloor(new BigDecimal("50"))
+                .rate(new BigDecimal("0.02"))
+                .build());
+        for (int f = 0; f < RULED_CURRENCIES; f++) {
+            for (int t = 0; t < RULED_CURRENCIES; t++) {
+                // Corridor tiers start at 100, so smaller amounts fall through to the wildcard.
+                for (int tier = 0; tier < tiersPerCorridor && rules.size() < ruleCount; tier++) {
+                    rules.add(FeeRule.builder()
+                            .fromCurrency(CURRENCIES[f])
+                            .toCurrency(CURRENCIES[t])
+                            .tierFloor(BigDecimal.valueOf((tier + 1) * 100L))
+                            .rate(new BigDecimal("0.01"))
+                            .minFee(new BigDecimal("1.00"))
+                            .maxFee(new BigDecimal("50.00"))
+                            .build());
+                }
+            }
+        }
+        schedule = FeeSchedule.compile(rules);
+
+        // One query in eight is below the lowest corridor tier, whatever the schedule size.
+        Random random = new Random(42);
+        int tierRange = tiersPerCorridor * 100;
+        for (int i = 0; i < QUERIES; i++) {
+            fromCurrencies[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            toCurrencies[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            amounts[i] = BigDecimal.valueOf(i % 8 == 0 ? random.nextInt(100) : 100 + random.nextInt(tierRange));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateFee() {
+        int i = cursor++ & QUERY_MASK;
+        return schedule.calculateFee(fromCurrencies[i], toCurrencies[i], amounts[i]);
+    }
+}
@@ -9,6 +9,7 @@ import com.jpmchase.bank.entity.Account;
 import com.jpmchase.bank.entity.FxRate;
 import com.jpmchase.bank.repository.AccountRepository;
 import com.jpmchase.bank.repository.FxRateRepository;
+import com.jpmchase.bank.service.FeeScheduleService;
 import java.math.BigDecimal;
 import java.util.List;
 import org.springframework.boot.CommandLineRunner;
@@ -23,7 +24,8 @@ public class BankApplication {
     }
 
     @Bean
-    CommandLineRunner init(AccountRepository acctRepo, FxRateRepository fxRateRepo) {
+    CommandLineRunner init(AccountRepository acctRepo, FxRateRepository fxRateRepo,
+                           FeeScheduleService feeScheduleService) {
         return args -> {
             acctRepo.save(new Account(null, "Alice", "USD", new BigDecimal("1000"), null));
             acctRepo.save(new Account(null, "Bob", "JPN", new BigDecimal("500"), null));
@@ -32,6 +34,8 @@ public class BankApplication {
                     FxRate.builder().fromCurrency("USD").toCurrency("AUD").rate(new BigDecimal("2")).build(),
                     FxRate.builder().fromCurrency("AUD").toCurrency("USD").rate(new BigDecimal("0.5")).build()
             ));
+
+            feeScheduleService.reload();
         };
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.controller;
+
+import com.jpmchase.bank.service.FeeScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fee-schedule")
+@RequiredArgsConstructor
+public class FeeScheduleController {
+
+    private final FeeScheduleService feeScheduleService;
+
+    /**
+     * Recompiles the fee schedule from the {@code FEE_RULE} table and swaps it in. An invalid
+     * rule set is rejected and the current schedule stays live.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<String> reload() {
+        try {
+            feeScheduleService.reload();
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body("Fee schedule reload failed: " + ex.getMessage());
+        }
+        return ResponseEntity.ok("Fee schedule reloaded");
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A single tier of a fee schedule. A null currency matches any currency on that side
+ * of the corridor. The rule applies to amounts from {@code tierFloor} (inclusive) up to
+ * the next tier's floor in the same corridor; {@code minFee} and {@code maxFee} are optional.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class FeeRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String fromCurrency;
+    private String toCurrency;
+
+    @Column(precision = 19, scale = 4)
+    private BigDecimal tierFloor;
+
+    @Column(precision = 19, scale = 8)
+    private BigDecimal rate;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal minFee;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal maxFee;
+}
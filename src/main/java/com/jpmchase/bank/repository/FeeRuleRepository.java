@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.repository;
+
+import com.jpmchase.bank.entity.FeeRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FeeRuleRepository extends JpaRepository<FeeRule, Long> {
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.service;
+
+import com.jpmchase.bank.entity.FeeRule;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable fee schedule compiled from {@link FeeRule}s. Rules are grouped by corridor and
+ * sorted by tier floor, so a fee is resolved with at most four corridor lookups, each a map
+ * get and a binary search over that corridor's tiers, without ever scanning the rule list.
+ *
+ * <p>Corridors are tried from most to least specific: {@code from -> to}, {@code from -> any},
+ * {@code any -> to}, {@code any -> any}. If none has a tier covering the amount, the legacy
+ * flat 1% fee applies.
+ */
+public final class FeeSchedule {
+    static final BigDecimal DEFAULT_FEE_PERCENTAGE = new BigDecimal("0.01");
+    private static final String ANY = "*";
+    private static final TierTable DEFAULT_TIERS = new TierTable(
+            new BigDecimal[]{BigDecimal.ZERO},
+            new BigDecimal[]{DEFAULT_FEE_PERCENTAGE},
+            new BigDecimal[]{null},
+            new BigDecimal[]{null});
+
+    public static final FeeSchedule EMPTY = new FeeSchedule(Map.of());
+
+    private final Map<String, Map<String, TierTable>> corridors;
+
+    private FeeSchedule(Map<String, Map<String, TierTable>> corridors) {
+        this.corridors = corridors;
+    }
+
+    public static FeeSchedule compile(List<FeeRule> rules) {
+        Map<String, Map<String, List<FeeRule>>> grouped = new HashMap<>();
+        for (FeeRule rule : rules) {
+            validate(rule);
+            grouped.computeIfAbsent(keyOf(rule.getFromCurrency()), k -> new HashMap<>())
+                    .computeIfAbsent(keyOf(rule.getToCurrency()), k -> new ArrayList<>())
+                    .add(rule);
+        }
+
+        Map<String, Map<String, TierTable>> corridors = new HashMap<>();
+        grouped.forEach((from, byTo) -> {
+            Map<String, TierTable> tables = new HashMap<>();
+            byTo.forEach((to, tiers) -> tables.put(to, TierTable.of(from, to, tiers)));
+            corridors.put(from, Map.copyOf(tables));
+        });
+        return new FeeSchedule(Map.copyOf(corridors));
+    }
+
+    public BigDecimal calculateFee(String fromCurrency, String toCurrency, BigDecimal amount) {
+        Map<String, TierTable> fromTables = corridors.get(fromCurrency);
+        Map<String, TierTable> anyTables = corridors.get(ANY);
+
+        TierTable table;
+        int tier;
+        if (fromTables != null) {
+            table = fromTables.get(toCurrency);
+            if (table != null && (tier = table.indexOf(amount)) >= 0) {
+                return table.fee(tier, amount);
+            }
+            table = fromTables.get(ANY);
+            if (table != null && (tier = table.indexOf(amount)) >= 0) {
+                return table.fee(tier, amount);
+            }
+        }
+        if (anyTables != null) {
+            table = anyTables.get(toCurrency);
+            if (table != null && (tier = table.indexOf(amount)) >= 0) {
+                return table.fee(tier, amount);
+            }
+            table = anyTables.get(ANY);
+            if (table != null && (tier = table.indexOf(amount)) >= 0) {
+                return table.fee(tier, amount);
+            }
+        }
+        return DEFAULT_TIERS.fee(0, amount);
+    }
+
+    private static String keyOf(String currency) {
+        return currency == null ? ANY : currency;
+    }
+
+    private static void validate(FeeRule rule) {
+        if (rule.getTierFloor() == null || rule.getTierFloor().signum() < 0) {
+            throw new IllegalArgumentException("Fee rule " + rule.getId() + " has an invalid tier floor");
+        }
+        if (rule.getRate() == null || rule.getRate().signum() < 0) {
+            throw new IllegalArgumentException("Fee rule " + rule.getId() + " has an invalid rate");
+        }
+        if (rule.getMinFee() != null && rule.getMinFee().signum() < 0) {
+            throw new IllegalArgumentException("Fee rule " + rule.getId() + " has a negative minimum fee");
+        }
+        if (rule.getMaxFee() != null && rule.getMaxFee().signum() < 0) {
+            throw new IllegalArgumentException("Fee rule " + rule.getId() + " has a negative maximum fee");
+        }
+        if (rule.getMinFee() != null && rule.getMaxFee() != null
+                && rule.getMinFee().compareTo(rule.getMaxFee()) > 0) {
+            throw new IllegalArgumentException("Fee rule " + rule.getId() + " has a minimum fee above its maximum");
+        }
+    }
+
+    /**
+     * Tiers of a single corridor as parallel arrays sorted by floor. Index {@code i} covers
+     * amounts in {@code [floors[i], floors[i + 1])}.
+     */
+    private static final class TierTable {
+        private final BigDecimal[] floors;
+        private final BigDecimal[] rates;
+        private final BigDecimal[] minFees;
+        private final BigDecimal[] maxFees;
+
+        private TierTable(BigDecimal[] floors, BigDecimal[] rates,
+                          BigDecimal[] minFees, BigDecimal[] maxFees) {
+            this.floors = floors;
+            this.rates = rates;
+            this.minFees = minFees;
+            this.maxFees = maxFees;
+        }
+
+        static TierTable of(String from, String to, List<FeeRule> rules) {
+            List<FeeRule> sorted = new ArrayList<>(rules);
+            sorted.sort(Comparator.comparing(FeeRule::getTierFloor));
+
+            int size = sorted.size();
+            BigDecimal[] floors = new BigDecimal[size];
+            BigDecimal[] rates = new BigDecimal[size];
+            BigDecimal[] minFees = new BigDecimal[size];
+            BigDecimal[] maxFees = new BigDecimal[size];
+            for (int i = 0; i < size; i++) {
+                FeeRule rule = sorted.get(i);
+                if (i > 0 && floors[i - 1].compareTo(rule.getTierFloor()) == 0) {
+                    throw new IllegalArgumentException("Duplicate fee tier " + rule.getTierFloor()
+                            + " for corridor " + from + " -> " + to);
+                }
+                floors[i] = rule.getTierFloor();
+                rates[i] = rule.getRate();
+                minFees[i] = rule.getMinFee();
+                maxFees[i] = rule.getMaxFee();
+            }
+            return new TierTable(floors, rates, minFees, maxFees);
+        }
+
+        /**
+         * Returns the index of the highest tier whose floor is at or below {@code amount},
+         * or -1 if the amount is below every tier.
+         */
+        int indexOf(BigDecimal amount) {
+            int low = 0;
+            int high = floors.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (floors[mid].compareTo(amount) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        /**
+         * Applies the tier's rate and caps, then rounds to money precision so the balance
+         * check, the debit and the stored balance all see the same fee.
+         */
+        BigDecimal fee(int tier, BigDecimal amount) {
+            BigDecimal fee = amount.multiply(rates[tier]);
+            BigDecimal minFee = minFees[tier];
+            BigDecimal maxFee = maxFees[tier];
+            if (minFee != null && fee.compareTo(minFee) < 0) {
+                fee = minFee;
+            } else if (maxFee != null && fee.compareTo(maxFee) > 0) {
+                fee = maxFee;
+            }
+            return fee.setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
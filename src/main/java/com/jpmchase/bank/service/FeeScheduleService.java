@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.service;
+
+import com.jpmchase.bank.repository.FeeRuleRepository;
+import java.math.BigDecimal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FeeScheduleService {
+    private final FeeRuleRepository feeRuleRepository;
+    private volatile FeeSchedule schedule = FeeSchedule.EMPTY;
+
+    @Autowired
+    public FeeScheduleService(FeeRuleRepository feeRuleRepository) {
+        this.feeRuleRepository = feeRuleRepository;
+    }
+
+    /**
+     * Loads all fee rules and swaps in the compiled schedule. Transfers in flight keep using
+     * the schedule they already read; an invalid rule set leaves the current schedule in place.
+     * Reloads are serialized so an older read can never be published over a newer one.
+     */
+    public synchronized void reload() {
+        schedule = FeeSchedule.compile(feeRuleRepository.findAll());
+    }
+
+    public BigDecimal calculateFee(String fromCurrency, String toCurrency, BigDecimal amount) {
+        return schedule.calculateFee(fromCurrency, toCurrency, amount);
+    }
+}
@@ -17,13 +17,15 @@ import org.springframework.stereotype.Service;
 public class TransferService {
     private final AccountRepository accountRepo;
     private final CurrencyConversionService currencyService;
-    private static final BigDecimal FEE_PERCENTAGE = new BigDecimal("0.01");
+    private final FeeScheduleService feeScheduleService;
 
     @Autowired
     public TransferService(AccountRepository accountRepo,
-                           CurrencyConversionService currencyService) {
+                           CurrencyConversionService currencyService,
+                           FeeScheduleService feeScheduleService) {
         this.accountRepo = accountRepo;
         this.currencyService = currencyService;
+        this.feeScheduleService = feeScheduleService;
     }
 
     @Transactional
@@ -35,7 +37,7 @@ public class TransferService {
         Account to = accountRepo.findByIdForUpdate(toId)
                 .orElseThrow(() -> new RuntimeException("Receiver not found"));
 
-        BigDecimal fee = amount.multiply(FEE_PERCENTAGE);
+        BigDecimal fee = feeScheduleService.calculateFee(from.getCurrency(), to.getCurrency(), amount);
         BigDecimal totalDebit = amount.add(fee);
 
         if (from.getBalance().compareTo(totalDebit) < 0) {
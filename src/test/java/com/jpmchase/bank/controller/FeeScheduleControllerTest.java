@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.jpmchase.bank.service.FeeScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class FeeScheduleControllerTest {
+
+    private FeeScheduleService feeScheduleService;
+    private FeeScheduleController controller;
+
+    @BeforeEach
+    void setUp() {
+        feeScheduleService = mock(FeeScheduleService.class);
+        controller = new FeeScheduleController(feeScheduleService);
+    }
+
+    @Test
+    void testReload() {
+        //When
+        ResponseEntity<String> response = controller.reload();
+
+        //Then
+        verify(feeScheduleService).reload();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Fee schedule reloaded", response.getBody());
+    }
+
+    @Test
+    void testReloadWithInvalidRules() {
+        //Given
+        doThrow(new IllegalArgumentException("Fee rule 7 has an invalid rate"))
+                .when(feeScheduleService).reload();
+
+        //When
+        ResponseEntity<String> response = controller.reload();
+
+        //Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Fee schedule reload failed: Fee rule 7 has an invalid rate", response.getBody());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jpmchase.bank.entity.FeeRule;
+import com.jpmchase.bank.service.FeeScheduleService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(FeeScheduleService.class)
+class FeeRuleRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FeeScheduleService feeScheduleService;
+
+    @Test
+    void testSubPercentRateSurvivesStorage() {
+        //Given a 0.5% rule stored and read back from the database
+        entityManager.persistAndFlush(FeeRule.builder()
+                .fromCurrency("USD")
+                .toCurrency("AUD")
+                .tierFloor(new BigDecimal("0.00"))
+                .rate(new BigDecimal("0.005"))
+                .build());
+        entityManager.clear();
+
+        //When
+        feeScheduleService.reload();
+
+        //Then
+        BigDecimal fee = feeScheduleService.calculateFee("USD", "AUD", new BigDecimal("1000"));
+        assertEquals(0, new BigDecimal("5").compareTo(fee), "fee was " + fee);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jpmchase.bank.entity.FeeRule;
+import com.jpmchase.bank.repository.FeeRuleRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FeeScheduleServiceTest {
+
+    private FeeRuleRepository feeRuleRepository;
+    private FeeScheduleService service;
+
+    @BeforeEach
+    void setUp() {
+        feeRuleRepository = mock(FeeRuleRepository.class);
+        service = new FeeScheduleService(feeRuleRepository);
+    }
+
+    @Test
+    void testDefaultFeeBeforeReload() {
+        //When
+        BigDecimal fee = service.calculateFee("USD", "AUD", new BigDecimal("100"));
+
+        //Then
+        assertEquals(0, new BigDecimal("1").compareTo(fee));
+    }
+
+    @Test
+    void testReloadSwapsInNewSchedule() {
+        //Given
+        final FeeRule flatFee = FeeRule.builder().tierFloor(BigDecimal.ZERO)
+                .rate(BigDecimal.ZERO).minFee(new BigDecimal("5.00")).build();
+        when(feeRuleRepository.findAll()).thenReturn(List.of(flatFee));
+
+        //When
+        service.reload();
+
+        //Then
+        assertEquals(new BigDecimal("5.00"), service.calculateFee("USD", "AUD", new BigDecimal("100")));
+    }
+
+    @Test
+    void testInvalidReloadKeepsCurrentSchedule() {
+        //Given a valid schedule is live
+        final FeeRule flatFee = FeeRule.builder().tierFloor(BigDecimal.ZERO)
+                .rate(BigDecimal.ZERO).minFee(new BigDecimal("5.00")).build();
+        when(feeRuleRepository.findAll()).thenReturn(List.of(flatFee));
+        service.reload();
+
+        final FeeRule invalid = FeeRule.builder().tierFloor(BigDecimal.ZERO).build();
+        when(feeRuleRepository.findAll()).thenReturn(List.of(invalid));
+
+        //When
+        assertThrows(IllegalArgumentException.class, () -> service.reload());
+
+        //Then
+        assertEquals(new BigDecimal("5.00"), service.calculateFee("USD", "AUD", new BigDecimal("100")));
+    }
+
+    @Test
+    void testOverlappingReloadsPublishLatestRules() throws InterruptedException {
+        //Given the first reload is still reading the old rules when a second reload starts
+        final FeeRule oldFee = FeeRule.builder().tierFloor(BigDecimal.ZERO)
+                .rate(BigDecimal.ZERO).minFee(new BigDecimal("5.00")).build();
+        final FeeRule newFee = FeeRule.builder().tierFloor(BigDecimal.ZERO)
+                .rate(BigDecimal.ZERO).minFee(new BigDecimal("7.00")).build();
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(feeRuleRepository.findAll()).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                firstReading.countDown();
+                releaseFirst.await();
+                return List.of(oldFee);
+            }
+            return List.of(newFee);
+        });
+
+        //When
+        Thread first = new Thread(() -> service.reload());
+        first.start();
+        firstReading.await();
+        Thread second = new Thread(() -> service.reload());
+        second.start();
+        Thread.sleep(100);
+        releaseFirst.countDown();
+        first.join();
+        second.join();
+
+        //Then
+        assertEquals(new BigDecimal("7.00"), service.calculateFee("USD", "AUD", new BigDecimal("100")));
+    }
+}
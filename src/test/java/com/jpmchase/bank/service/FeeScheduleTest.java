@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 JP Morgan Chase
+ *
+ */
+
+package com.jpmchase.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jpmchase.bank.entity.FeeRule;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FeeScheduleTest {
+
+    private final String USD = "USD";
+    private final String AUD = "AUD";
+    private final String JPN = "JPN";
+
+    private FeeRule rule(String from, String to, String floor, String rate, String minFee, String maxFee) {
+        return FeeRule.builder()
+                .fromCurrency(from)
+                .toCurrency(to)
+                .tierFloor(new BigDecimal(floor))
+                .rate(new BigDecimal(rate))
+                .minFee(minFee == null ? null : new BigDecimal(minFee))
+                .maxFee(maxFee == null ? null : new BigDecimal(maxFee))
+                .build();
+    }
+
+    @Test
+    void testEmptyScheduleChargesDefaultFee() {
+        //When
+        BigDecimal fee = FeeSchedule.EMPTY.calculateFee(USD, AUD, new BigDecimal("100.00"));
+
+        //Then
+        assertEquals(new BigDecimal("1.00"), fee);
+    }
+
+    @Test
+    void testTierIsSelectedByAmount() {
+        //Given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                rule(USD, AUD, "1000", "0.005", null, null),
+                rule(USD, AUD, "0", "0.02", null, null),
+                rule(USD, AUD, "10000", "0.001", null, null)));
+
+        //Then
+        assertEquals(new BigDecimal("2.00"), schedule.calculateFee(USD, AUD, new BigDecimal("100")));
+        assertEquals(new BigDecimal("5.00"), schedule.calculateFee(USD, AUD, new BigDecimal("1000")));
+        assertEquals(new BigDecimal("50.00"), schedule.calculateFee(USD, AUD, new BigDecimal("9999")));
+        assertEquals(new BigDecimal("20.00"), schedule.calculateFee(USD, AUD, new BigDecimal("20000")));
+    }
+
+    @Test
+    void testMinimumAndMaximumFeeAreApplied() {
+        //Given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                rule(USD, AUD, "0", "0.01", "2.50", "25.00")));
+
+        //Then
+        assertEquals(new BigDecimal("2.50"), schedule.calculateFee(USD, AUD, new BigDecimal("10")));
+        assertEquals(new BigDecimal("15.00"), schedule.calculateFee(USD, AUD, new BigDecimal("1500")));
+        assertEquals(new BigDecimal("25.00"), schedule.calculateFee(USD, AUD, new BigDecimal("5000")));
+    }
+
+    @Test
+    void testFeeIsRoundedToMoneyPrecision() {
+        //Given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                rule(USD, USD, "0", "0.0025", null, null)));
+
+        //Then 0.251375 rounds down and 0.255 rounds half up
+        assertEquals(new BigDecimal("0.25"), schedule.calculateFee(USD, USD, new BigDecimal("100.55")));
+        assertEquals(new BigDecimal("0.26"), schedule.calculateFee(USD, USD, new BigDecimal("102.00")));
+    }
+
+    @Test
+    void testMostSpecificCorridorWins() {
+        //Given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                rule(USD, AUD, "0", "0.03", null, null),
+                rule(USD, null, "0", "0.02", null, null),
+                rule(null, null, "0", "0.005", null, null)));
+
+        //Then
+        assertEquals(0, new BigDecimal("3").compareTo(schedule.calculateFee(USD, AUD, new BigDecimal("100"))));
+        assertEquals(0, new BigDecimal("2").compareTo(schedule.calculateFee(USD, JPN, new BigDecimal("100"))));
+        assertEquals(0, new BigDecimal("0.5").compareTo(schedule.calculateFee(AUD, USD, new BigDecimal("100"))));
+    }
+
+    @Test
+    void testAmountBelowLowestTierFallsBackToWiderCorridor() {
+        //Given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                rule(USD, AUD, "1000", "0.001", null, null),
+                rule(null, AUD, "0", "0.02", null, null)));
+
+        //Then
+        assertEquals(0, new BigDecimal("2").compareTo(schedule.calculateFee(USD, AUD, new BigDecimal("100"))));
+        assertEquals(0, new BigDecimal("1").compareTo(schedule.calculateFee(USD, AUD, new BigDecimal("1000"))));
+    }
+
+    @Test
+    void testDuplicateTierIsRejected() {
+        //When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FeeSchedule.compile(List.of(
+                        rule(USD, AUD, "0", "0.01", null, null),
+                        rule(USD, AUD, "0.00", "0.02", null, null))));
+
+        //Then
+        assertEquals("Duplicate fee tier 0.00 for corridor USD -> AUD", exception.getMessage());
+    }
+
+    @Test
+    void testMinimumAboveMaximumIsRejected() {
+        //When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FeeSchedule.compile(List.of(rule(USD, AUD, "0", "0.01", "10", "5"))));
+
+        //Then
+        assertEquals("Fee rule null has a minimum fee above its maximum", exception.getMessage());
+    }
+
+    @Test
+    void testNegativeMinimumFeeIsRejected() {
+        //When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FeeSchedule.compile(List.of(rule(USD, AUD, "0", "0.01", "-1", null))));
+
+        //Then
+        assertEquals("Fee rule null has a negative minimum fee", exception.getMessage());
+    }
+
+    @Test
+    void testNegativeMaximumFeeIsRejected() {
+        //When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FeeSchedule.compile(List.of(rule(USD, AUD, "0", "0.01", null, "-1"))));
+
+        //Then
+        assertEquals("Fee rule null has a negative maximum fee", exception.getMessage());
+    }
+}
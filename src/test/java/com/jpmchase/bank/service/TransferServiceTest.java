@@ -10,17 +10,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.jpmchase.bank.entity.Account;
+import com.jpmchase.bank.entity.FeeRule;
 import com.jpmchase.bank.repository.AccountRepository;
+import com.jpmchase.bank.repository.FeeRuleRepository;
 import com.jpmchase.bank.repository.FxRateRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -35,7 +37,10 @@ class TransferServiceTest {
     @Mock
     private FxRateRepository fxRateRepository;
 
-    @InjectMocks
+    @Mock
+    private FeeRuleRepository feeRuleRepository;
+
+    private FeeScheduleService feeScheduleService;
     private TransferService transferService;
 
     private final String USD = "USD";
@@ -50,6 +55,8 @@ class TransferServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        feeScheduleService = new FeeScheduleService(feeRuleRepository);
+        transferService = new TransferService(accountRepo, currencyService, feeScheduleService);
         alice = new Account(aliceId, "Alice", USD, new BigDecimal("1000.00"), null);
         bob = new Account(bobId, "Bob", JPN, new BigDecimal("500.00"), null);
     }
@@ -258,4 +265,86 @@ class TransferServiceTest {
         assertEquals(new BigDecimal("899.00"), alice.getBalance());
         assertEquals(new BigDecimal("550.00"), bob.getBalance());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTransferChargesTieredCorridorFee() {
+        //Given a USD -> AUD schedule with a 5.00 minimum fee on small transfers
+        bob.setCurrency(AUD);
+        when(feeRuleRepository.findAll()).thenReturn(List.of(
+                FeeRule.builder().fromCurrency(USD).toCurrency(AUD).tierFloor(BigDecimal.ZERO)
+                        .rate(new BigDecimal("0.02")).minFee(new BigDecimal("5.00")).build(),
+                FeeRule.builder().fromCurrency(USD).toCurrency(AUD).tierFloor(new BigDecimal("500"))
+                        .rate(new BigDecimal("0.005")).build()));
+        feeScheduleService.reload();
+        when(accountRepo.findByIdForUpdate(aliceId)).thenReturn(Optional.of(alice));
+        when(accountRepo.findByIdForUpdate(bobId)).thenReturn(Optional.of(bob));
+        when(currencyService.convert(USD, AUD)).thenReturn(Optional.of(BigDecimal.valueOf(2)));
+
+        //When
+        transferService.transfer(aliceId, bobId, new BigDecimal("100.00"));
+
+        //Then Alice pays 100 plus the 5.00 minimum fee rather than the 1% default
+        assertEquals(new BigDecimal("895.00"), alice.getBalance());
+        assertEquals(new BigDecimal("700.00"), bob.getBalance());
+    }
+
+    @Test
+    void testTransferRoundsSubPercentFee() {
+        //Given a 0.25% fee, which is 0.251375 on 100.55
+        bob.setCurrency(USD);
+        when(feeRuleRepository.findAll()).thenReturn(List.of(
+                FeeRule.builder().fromCurrency(USD).toCurrency(USD).tierFloor(BigDecimal.ZERO)
+                        .rate(new BigDecimal("0.0025")).build()));
+        feeScheduleService.reload();
+        when(accountRepo.findByIdForUpdate(aliceId)).thenReturn(Optional.of(alice));
+        when(accountRepo.findByIdForUpdate(bobId)).thenReturn(Optional.of(bob));
+
+        //When
+        transferService.transfer(aliceId, bobId, new BigDecimal("100.55"));
+
+        //Then Alice is charged the rounded 0.25 fee
+        assertEquals(new BigDecimal("899.20"), alice.getBalance());
+        assertEquals(new BigDecimal("600.55"), bob.getBalance());
+    }
+
+    @Test
+    void testTransferSucceedsWhenBalanceEqualsAmountPlusRoundedFee() {
+        //Given a balance of exactly 100.55 plus the rounded 0.25 fee
+        bob.setCurrency(USD);
+        alice.setBalance(new BigDecimal("100.80"));
+        when(feeRuleRepository.findAll()).thenReturn(List.of(
+                FeeRule.builder().fromCurrency(USD).toCurrency(USD).tierFloor(BigDecimal.ZERO)
+                        .rate(new BigDecimal("0.0025")).build()));
+        feeScheduleService.reload();
+        when(accountRepo.findByIdForUpdate(aliceId)).thenReturn(Optional.of(alice));
+        when(accountRepo.findByIdForUpdate(bobId)).thenReturn(Optional.of(bob));
+
+        //When
+        transferService.transfer(aliceId, bobId, new BigDecimal("100.55"));
+
+        //Then
+        assertEquals(new BigDecimal("0.00"), alice.getBalance());
+        assertEquals(new BigDecimal("600.55"), bob.getBalance());
+    }
+
+    @Test
+    void testTransferFailsIfTieredFeeMakesFundsInsufficient() {
+        //Given a balance that covers the 1% default fee but not the 5.00 minimum fee
+        bob.setCurrency(AUD);
+        alice.setBalance(new BigDecimal("104.00"));
+        when(feeRuleRepository.findAll()).thenReturn(List.of(
+                FeeRule.builder().fromCurrency(USD).toCurrency(AUD).tierFloor(BigDecimal.ZERO)
+                        .rate(new BigDecimal("0.02")).minFee(new BigDecimal("5.00")).build()));
+        feeScheduleService.reload();
+        when(accountRepo.findByIdForUpdate(aliceId)).thenReturn(Optional.of(alice));
+        when(accountRepo.findByIdForUpdate(bobId)).thenReturn(Optional.of(bob));
+
+        //When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> transferService.transfer(aliceId, bobId, new BigDecimal("100.00")));
+
+        //Then
+        assertEquals("Insufficient funds (including fee)", exception.getMessage());
+        assertEquals(new BigDecimal("104.00"), alice.getBalance());
+    }
+}